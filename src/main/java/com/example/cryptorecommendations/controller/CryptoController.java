@@ -1,11 +1,14 @@
 package com.example.cryptorecommendations.controller;
 
+import com.example.cryptorecommendations.service.BacktestService;
 import com.example.cryptorecommendations.service.CryptoService;
+import com.example.dto.BacktestResultDto;
 import com.example.dto.CryptoNormalizedRangeDto;
 import com.example.dto.CryptoStatsDto;
 import com.example.dto.HighestNormalizedRangeDto;
 import com.example.exception.CryptoIsMissingException;
 import com.example.exception.CryptoNotFoundException;
+import com.example.exception.InvalidBacktestParametersException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import org.springframework.http.HttpStatus;
@@ -20,9 +23,11 @@ import java.util.List;
 public class CryptoController {
 
     private final CryptoService cryptoService;
+    private final BacktestService backtestService;
 
-    public CryptoController(CryptoService cryptoService) {
+    public CryptoController(CryptoService cryptoService, BacktestService backtestService) {
         this.cryptoService = cryptoService;
+        this.backtestService = backtestService;
     }
 
     @Operation(summary = "Get cryptos sorted by normalized range")
@@ -56,6 +61,18 @@ public class CryptoController {
         return cryptoService.getCryptoWithHighestNormalizedRange(date);
     }
 
+    @Operation(summary = "Backtest buying the top N cryptos by normalized range for every parameter combination")
+    @GetMapping("/backtest")
+    public List<BacktestResultDto> runBacktest(
+            @Parameter(description = "Numbers of cryptos to hold, comma separated")
+            @RequestParam List<Integer> topN,
+            @Parameter(description = "Trailing days used for the normalized range, comma separated")
+            @RequestParam List<Integer> lookbackDays,
+            @Parameter(description = "Days between rebalances, comma separated")
+            @RequestParam(defaultValue = "1") List<Integer> rebalanceDays) {
+        return backtestService.runBacktest(topN, lookbackDays, rebalanceDays);
+    }
+
     @ExceptionHandler(CryptoNotFoundException.class)
     public ResponseEntity<String> handleCryptoNotFound(CryptoNotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
@@ -66,5 +83,10 @@ public class CryptoController {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body(ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidBacktestParametersException.class)
+    public ResponseEntity<String> handleInvalidBacktestParameters(InvalidBacktestParametersException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
 
 }
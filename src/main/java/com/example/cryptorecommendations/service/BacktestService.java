@@ -0,0 +1,186 @@
+package com.example.cryptorecommendations.service;
+
+import com.example.dto.BacktestResultDto;
+import com.example.exception.InvalidBacktestParametersException;
+import com.example.model.DailyPriceHistory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+public class BacktestService {
+
+    static final int MAX_SCENARIOS = 10_000;
+
+    private final CryptoService cryptoService;
+
+    public BacktestService(CryptoService cryptoService) {
+        this.cryptoService = cryptoService;
+    }
+
+    /**
+     * Replays the stored history for every combination of the given parameters. Each scenario buys
+     * the top N cryptos by normalized range over the trailing lookback days, equally weighted, and
+     * rebalances every given number of days. Scenarios run in parallel on the common fork-join pool
+     * and all read the same immutable price history.
+     */
+    public List<BacktestResultDto> runBacktest(List<Integer> topN, List<Integer> lookbackDays, List<Integer> rebalanceDays) {
+        validate("topN", topN);
+        validate("lookbackDays", lookbackDays);
+        validate("rebalanceDays", rebalanceDays);
+
+        // Repeated values would only produce identical scenarios
+        List<Integer> distinctTopN = topN.stream().distinct().toList();
+        List<Integer> distinctLookbackDays = lookbackDays.stream().distinct().toList();
+        List<Integer> distinctRebalanceDays = rebalanceDays.stream().distinct().toList();
+
+        long scenarioCount = (long) distinctTopN.size() * distinctLookbackDays.size() * distinctRebalanceDays.size();
+        if (scenarioCount > MAX_SCENARIOS) {
+            throw new InvalidBacktestParametersException(
+                    "Too many scenarios (" + scenarioCount + "), the maximum is " + MAX_SCENARIOS + ".");
+        }
+
+        List<BacktestConfig> configs = new ArrayList<>();
+        for (int n : distinctTopN) {
+            for (int lookback : distinctLookbackDays) {
+                for (int rebalance : distinctRebalanceDays) {
+                    configs.add(new BacktestConfig(n, lookback, rebalance));
+                }
+            }
+        }
+
+        DailyPriceHistory history = DailyPriceHistory.of(cryptoService.getPriceDataFromAllCsvFiles());
+
+        // A scenario needs at least one day after its first ranking to hold anything
+        for (int lookback : distinctLookbackDays) {
+            if (lookback >= history.dayCount()) {
+                throw new InvalidBacktestParametersException("Parameter 'lookbackDays' must be less than the "
+                        + history.dayCount() + " days of stored history.");
+            }
+        }
+
+        return configs.parallelStream()
+                .map(config -> simulate(history, config))
+                .sorted(Comparator.comparingDouble(BacktestResultDto::getTotalReturn).reversed())
+                .toList();
+    }
+
+    static BacktestResultDto simulate(DailyPriceHistory history, BacktestConfig config) {
+        int symbolCount = history.symbolCount();
+        double[] weights = new double[symbolCount];
+        double[] ranges = new double[symbolCount];
+        boolean[] selected = new boolean[symbolCount];
+
+        double equity = 1;
+        double peak = 1;
+        double maxDrawdown = 0;
+        double turnover = 0;
+
+        int firstDay = config.lookbackDays() - 1;
+        for (int day = firstDay; day < history.dayCount() - 1; day++) {
+            if ((day - firstDay) % config.rebalanceDays() == 0) {
+                turnover += rebalance(history, config, day, weights, ranges, selected);
+            }
+
+            // Hold from today's close to tomorrow's close
+            double portfolioReturn = 0;
+            for (int s = 0; s < symbolCount; s++) {
+                if (weights[s] > 0) {
+                    portfolioReturn += weights[s] * (history.close(s, day + 1) / history.close(s, day) - 1);
+                }
+            }
+
+            // Let the weights drift with prices until the next rebalance
+            double growth = 1 + portfolioReturn;
+            for (int s = 0; s < symbolCount; s++) {
+                if (weights[s] > 0) {
+                    weights[s] = growth > 0 ? weights[s] * (history.close(s, day + 1) / history.close(s, day)) / growth : 0;
+                }
+            }
+
+            equity *= growth;
+            peak = Math.max(peak, equity);
+            maxDrawdown = Math.max(maxDrawdown, 1 - equity / peak);
+        }
+
+        return new BacktestResultDto(
+                config.topN(),
+                config.lookbackDays(),
+                config.rebalanceDays(),
+                equity - 1,
+                maxDrawdown,
+                turnover
+        );
+    }
+
+    /**
+     * Replaces the weights with an equal-weighted top N by trailing normalized range and returns
+     * the turnover of the trade, measured as the total weight bought.
+     */
+    private static double rebalance(DailyPriceHistory history, BacktestConfig config, int day,
+                                    double[] weights, double[] ranges, boolean[] selected) {
+        int symbolCount = history.symbolCount();
+        int eligible = 0;
+        for (int s = 0; s < symbolCount; s++) {
+            ranges[s] = trailingNormalizedRange(history, s, day, config.lookbackDays());
+            selected[s] = false;
+            if (!Double.isNaN(ranges[s])) {
+                eligible++;
+            }
+        }
+
+        // Pick the top N by normalized range, ties go to the first symbol
+        int picks = Math.min(config.topN(), eligible);
+        for (int i = 0; i < picks; i++) {
+            int best = -1;
+            for (int s = 0; s < symbolCount; s++) {
+                if (!selected[s] && !Double.isNaN(ranges[s]) && (best < 0 || ranges[s] > ranges[best])) {
+                    best = s;
+                }
+            }
+            selected[best] = true;
+        }
+
+        double bought = 0;
+        for (int s = 0; s < symbolCount; s++) {
+            double target = selected[s] ? 1.0 / picks : 0;
+            bought += Math.max(target - weights[s], 0);
+            weights[s] = target;
+        }
+        return bought;
+    }
+
+    private static double trailingNormalizedRange(DailyPriceHistory history, int symbol, int day, int lookbackDays) {
+        if (Double.isNaN(history.close(symbol, day))) {
+            return Double.NaN;
+        }
+
+        double min = Double.NaN;
+        double max = Double.NaN;
+        for (int d = day - lookbackDays + 1; d <= day; d++) {
+            double low = history.low(symbol, d);
+            if (!Double.isNaN(low)) {
+                min = Double.isNaN(min) ? low : Math.min(min, low);
+                max = Double.isNaN(max) ? history.high(symbol, d) : Math.max(max, history.high(symbol, d));
+            }
+        }
+
+        return Double.isNaN(min) ? Double.NaN : CryptoService.calculateNormalizedRange(min, max);
+    }
+
+    private static void validate(String name, List<Integer> values) {
+        if (values == null || values.isEmpty()) {
+            throw new InvalidBacktestParametersException("Parameter '" + name + "' must not be empty.");
+        }
+        for (Integer value : values) {
+            if (value == null || value < 1) {
+                throw new InvalidBacktestParametersException("Parameter '" + name + "' must contain only positive values.");
+            }
+        }
+    }
+
+    record BacktestConfig(int topN, int lookbackDays, int rebalanceDays) {
+    }
+}
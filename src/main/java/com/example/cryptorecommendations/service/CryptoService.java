@@ -43,7 +43,7 @@ public class CryptoService {
             List<CryptoPriceEntry> prices = entry.getValue();
             double min = getMinPrice(prices);
             double max = getMaxPrice(prices);
-            double normalizedRange = min > 0 ? (max - min) / min : 0;
+            double normalizedRange = calculateNormalizedRange(min, max);
             result.add(new CryptoNormalizedRangeDto(symbol, normalizedRange));
         }
 
@@ -131,7 +131,7 @@ public class CryptoService {
 
             double min = getMinPrice(entries);
             double max = getMaxPrice(entries);
-            double normalizedRange = (min > 0) ? (max - min) / min : 0;
+            double normalizedRange = calculateNormalizedRange(min, max);
 
             if (normalizedRange > maxNormalizedRange) {
                 maxNormalizedRange = normalizedRange;
@@ -142,6 +142,10 @@ public class CryptoService {
         return result;
     }
 
+    static double calculateNormalizedRange(double min, double max) {
+        return min > 0 ? (max - min) / min : 0;
+    }
+
     private static double getMaxPrice(List<CryptoPriceEntry> entries) {
         return entries.stream()
                 .mapToDouble(CryptoPriceEntry::getPrice)
@@ -0,0 +1,15 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BacktestResultDto {
+    private int topN;
+    private int lookbackDays;
+    private int rebalanceDays;
+    private double totalReturn;
+    private double maxDrawdown;
+    private double turnover;
+}
@@ -0,0 +1,11 @@
+package com.example.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidBacktestParametersException extends RuntimeException {
+    public InvalidBacktestParametersException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.model;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Immutable day-by-symbol view of the price history used by the backtest engine.
+ * Days without a quote keep the previous close and have no low/high (NaN).
+ */
+public final class DailyPriceHistory {
+
+    private final int dayCount;
+    private final double[][] low;
+    private final double[][] high;
+    private final double[][] close;
+
+    private DailyPriceHistory(int dayCount, double[][] low, double[][] high, double[][] close) {
+        this.dayCount = dayCount;
+        this.low = low;
+        this.high = high;
+        this.close = close;
+    }
+
+    public static DailyPriceHistory of(List<CryptoPriceEntry> entries) {
+        List<String> symbols = entries.stream()
+                .map(CryptoPriceEntry::getSymbol)
+                .distinct()
+                .sorted()
+                .toList();
+        if (symbols.isEmpty()) {
+            return new DailyPriceHistory(0, new double[0][0], new double[0][0], new double[0][0]);
+        }
+
+        LocalDate first = entries.stream().map(e -> e.getDateTime().toLocalDate()).min(Comparator.naturalOrder()).get();
+        LocalDate last = entries.stream().map(e -> e.getDateTime().toLocalDate()).max(Comparator.naturalOrder()).get();
+        int dayCount = (int) (last.toEpochDay() - first.toEpochDay()) + 1;
+
+        Map<String, Integer> symbolIndex = new HashMap<>();
+        for (int i = 0; i < symbols.size(); i++) {
+            symbolIndex.put(symbols.get(i), i);
+        }
+
+        double[][] low = new double[symbols.size()][dayCount];
+        double[][] high = new double[symbols.size()][dayCount];
+        double[][] close = new double[symbols.size()][dayCount];
+        for (int s = 0; s < symbols.size(); s++) {
+            Arrays.fill(low[s], Double.NaN);
+            Arrays.fill(high[s], Double.NaN);
+            Arrays.fill(close[s], Double.NaN);
+        }
+
+        // Entries are applied in time order so the last quote of a day becomes its close
+        List<CryptoPriceEntry> sorted = entries.stream()
+                .sorted(Comparator.comparing(CryptoPriceEntry::getDateTime))
+                .toList();
+        for (CryptoPriceEntry entry : sorted) {
+            int s = symbolIndex.get(entry.getSymbol());
+            int d = (int) (entry.getDateTime().toLocalDate().toEpochDay() - first.toEpochDay());
+            double price = entry.getPrice();
+            low[s][d] = Double.isNaN(low[s][d]) ? price : Math.min(low[s][d], price);
+            high[s][d] = Double.isNaN(high[s][d]) ? price : Math.max(high[s][d], price);
+            close[s][d] = price;
+        }
+
+        // Carry the last known close over days without quotes
+        for (int s = 0; s < symbols.size(); s++) {
+            for (int d = 1; d < dayCount; d++) {
+                if (Double.isNaN(close[s][d])) {
+                    close[s][d] = close[s][d - 1];
+                }
+            }
+        }
+
+        return new DailyPriceHistory(dayCount, low, high, close);
+    }
+
+    public int symbolCount() {
+        return close.length;
+    }
+
+    public int dayCount() {
+        return dayCount;
+    }
+
+    public double low(int symbol, int day) {
+        return low[symbol][day];
+    }
+
+    public double high(int symbol, int day) {
+        return high[symbol][day];
+    }
+
+    public double close(int symbol, int day) {
+        return close[symbol][day];
+    }
+}
@@ -79,4 +79,26 @@ class CryptoControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.symbol").doesNotExist());
     }
-}
\ No newline at end of file
+
+    @Test
+    void runBacktest_success() throws Exception {
+        mockMvc.perform(get("/cryptos/backtest")
+                        .param("topN", "1,2")
+                        .param("lookbackDays", "1,3")
+                        .param("rebalanceDays", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(8)))
+                .andExpect(jsonPath("$[0].totalReturn", notNullValue()))
+                .andExpect(jsonPath("$[0].maxDrawdown", notNullValue()))
+                .andExpect(jsonPath("$[0].turnover", notNullValue()));
+    }
+
+    @Test
+    void runBacktest_invalidParameters() throws Exception {
+        mockMvc.perform(get("/cryptos/backtest")
+                        .param("topN", "0")
+                        .param("lookbackDays", "1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("positive")));
+    }
+}
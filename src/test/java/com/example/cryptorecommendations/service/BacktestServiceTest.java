@@ -0,0 +1,166 @@
+package com.example.cryptorecommendations.service;
+
+import com.example.dto.BacktestResultDto;
+import com.example.exception.InvalidBacktestParametersException;
+import com.example.model.CryptoPriceEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BacktestServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2022, 1, 1, 10, 0);
+
+    private CryptoService cryptoService;
+    private BacktestService backtestService;
+
+    @BeforeEach
+    void setUp() {
+        cryptoService = Mockito.mock(CryptoService.class);
+        doReturn(List.of(
+                new CryptoPriceEntry("BTC", START, 100.0),
+                new CryptoPriceEntry("BTC", START.plusHours(1), 150.0),
+                new CryptoPriceEntry("BTC", START.plusDays(1), 150.0),
+                new CryptoPriceEntry("BTC", START.plusDays(2), 300.0),
+                new CryptoPriceEntry("ETH", START, 100.0),
+                new CryptoPriceEntry("ETH", START.plusHours(1), 110.0),
+                new CryptoPriceEntry("ETH", START.plusDays(1), 55.0),
+                new CryptoPriceEntry("ETH", START.plusDays(2), 55.0)
+        )).when(cryptoService).getPriceDataFromAllCsvFiles();
+        backtestService = new BacktestService(cryptoService);
+    }
+
+    @Test
+    void testRunBacktest_holdsTopCryptoByNormalizedRange() {
+        List<BacktestResultDto> results = backtestService.runBacktest(List.of(1), List.of(1), List.of(1));
+
+        assertEquals(1, results.size());
+        BacktestResultDto result = results.get(0);
+        assertEquals(1.0, result.getTotalReturn(), 1e-9);
+        assertEquals(0.0, result.getMaxDrawdown(), 1e-9);
+        assertEquals(1.0, result.getTurnover(), 1e-9); // initial buy, BTC stays on top afterwards
+    }
+
+    @Test
+    void testRunBacktest_rebalancesDriftedWeights() {
+        List<BacktestResultDto> results = backtestService.runBacktest(List.of(2), List.of(1), List.of(1));
+
+        BacktestResultDto result = results.get(0);
+        assertEquals(0.125, result.getTotalReturn(), 1e-9);
+        assertEquals(0.25, result.getMaxDrawdown(), 1e-9);
+        assertEquals(1.0 + 1.0 / 6, result.getTurnover(), 1e-9);
+    }
+
+    @Test
+    void testRunBacktest_ranksByTrailingWindow() {
+        doReturn(List.of(
+                new CryptoPriceEntry("BTC", START, 100.0),
+                new CryptoPriceEntry("BTC", START.plusHours(1), 150.0),
+                new CryptoPriceEntry("BTC", START.plusDays(1), 150.0),
+                new CryptoPriceEntry("BTC", START.plusDays(2), 150.0),
+                new CryptoPriceEntry("BTC", START.plusDays(3), 300.0),
+                new CryptoPriceEntry("ETH", START, 100.0),
+                new CryptoPriceEntry("ETH", START.plusDays(1), 100.0),
+                new CryptoPriceEntry("ETH", START.plusDays(1).plusHours(1), 110.0),
+                new CryptoPriceEntry("ETH", START.plusDays(2), 110.0),
+                new CryptoPriceEntry("ETH", START.plusDays(3), 88.0)
+        )).when(cryptoService).getPriceDataFromAllCsvFiles();
+
+        // Day 1 window: BTC 0.5 beats ETH 0.1, day 2 window: BTC 0 loses to ETH 0.1
+        BacktestResultDto result = backtestService.runBacktest(List.of(1), List.of(2), List.of(1)).get(0);
+
+        assertEquals(-0.2, result.getTotalReturn(), 1e-9);
+        assertEquals(0.2, result.getMaxDrawdown(), 1e-9);
+        assertEquals(2.0, result.getTurnover(), 1e-9);
+    }
+
+    @Test
+    void testRunBacktest_letsWeightsDriftBetweenRebalances() {
+        doReturn(List.of(
+                new CryptoPriceEntry("BTC", START, 100.0),
+                new CryptoPriceEntry("BTC", START.plusDays(1), 200.0),
+                new CryptoPriceEntry("BTC", START.plusDays(2), 100.0),
+                new CryptoPriceEntry("BTC", START.plusDays(3), 100.0),
+                new CryptoPriceEntry("ETH", START, 100.0),
+                new CryptoPriceEntry("ETH", START.plusDays(1), 100.0),
+                new CryptoPriceEntry("ETH", START.plusDays(2), 100.0),
+                new CryptoPriceEntry("ETH", START.plusDays(3), 50.0)
+        )).when(cryptoService).getPriceDataFromAllCsvFiles();
+
+        // Rebalances on days 0 and 2, by day 2 the weights have drifted back to equal
+        BacktestResultDto result = backtestService.runBacktest(List.of(2), List.of(1), List.of(2)).get(0);
+
+        assertEquals(-0.25, result.getTotalReturn(), 1e-9);
+        assertEquals(0.5, result.getMaxDrawdown(), 1e-9);
+        assertEquals(1.0, result.getTurnover(), 1e-9);
+    }
+
+    @Test
+    void testRunBacktest_carriesCloseOverMissingDay() {
+        doReturn(List.of(
+                new CryptoPriceEntry("BTC", START, 100.0),
+                new CryptoPriceEntry("BTC", START.plusDays(1), 100.0),
+                new CryptoPriceEntry("BTC", START.plusDays(1).plusHours(1), 110.0),
+                new CryptoPriceEntry("BTC", START.plusDays(2), 110.0),
+                new CryptoPriceEntry("BTC", START.plusDays(3), 110.0),
+                new CryptoPriceEntry("ETH", START, 100.0),
+                new CryptoPriceEntry("ETH", START.plusHours(1), 150.0),
+                new CryptoPriceEntry("ETH", START.plusDays(2), 120.0),
+                new CryptoPriceEntry("ETH", START.plusDays(3), 132.0)
+        )).when(cryptoService).getPriceDataFromAllCsvFiles();
+
+        // ETH has no quote on day 1, so it is bought at the carried close of 150 and the
+        // missing low/high are skipped in the trailing window
+        BacktestResultDto result = backtestService.runBacktest(List.of(1), List.of(2), List.of(1)).get(0);
+
+        assertEquals(-0.2, result.getTotalReturn(), 1e-9);
+        assertEquals(0.2, result.getMaxDrawdown(), 1e-9);
+        assertEquals(2.0, result.getTurnover(), 1e-9);
+    }
+
+    @Test
+    void testRunBacktest_returnsEveryCombinationSortedByReturn() {
+        List<BacktestResultDto> results = backtestService.runBacktest(List.of(2, 1), List.of(1, 2), List.of(1, 2));
+
+        assertEquals(8, results.size());
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i - 1).getTotalReturn() >= results.get(i).getTotalReturn());
+        }
+    }
+
+    @Test
+    void testRunBacktest_ignoresDuplicateParameters() {
+        List<BacktestResultDto> results = backtestService.runBacktest(List.of(1, 1), List.of(1, 2, 1), List.of(1, 1));
+
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    void testRunBacktest_throwsForInvalidParameters() {
+        assertThrows(InvalidBacktestParametersException.class,
+                () -> backtestService.runBacktest(List.of(), List.of(1), List.of(1)));
+        assertThrows(InvalidBacktestParametersException.class,
+                () -> backtestService.runBacktest(List.of(1), List.of(0), List.of(1)));
+    }
+
+    @Test
+    void testRunBacktest_throwsForLookbackWithoutHoldingDays() {
+        // The fixture covers three days, so a three day lookback leaves nothing to hold
+        assertThrows(InvalidBacktestParametersException.class,
+                () -> backtestService.runBacktest(List.of(1), List.of(1, 3), List.of(1)));
+    }
+
+    @Test
+    void testRunBacktest_throwsForTooManyScenarios() {
+        List<Integer> values = IntStream.rangeClosed(1, 30).boxed().toList();
+        assertThrows(InvalidBacktestParametersException.class,
+                () -> backtestService.runBacktest(values, values, values));
+    }
+}